@@ -0,0 +1,41 @@
+package com.talentreef.interviewquestions.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+/**
+ * Counts events an async disruptor appender dropped because its ring buffer was full,
+ * as {@code logging.events.dropped}.
+ */
+public class DroppedEventCounter implements AppenderListener<ILoggingEvent> {
+
+  private volatile Counter dropped;
+
+  @Override
+  public void appenderStarted(Appender<ILoggingEvent> appender) {
+    dropped = Counter.builder("logging.events.dropped")
+            .description("Events dropped because the async appender's ring buffer was full")
+            .tag("appender", appender.getName())
+            .register(Metrics.globalRegistry);
+  }
+
+  @Override
+  public void appenderStopped(Appender<ILoggingEvent> appender) {
+  }
+
+  @Override
+  public void eventAppended(Appender<ILoggingEvent> appender, ILoggingEvent event, long durationInNanos) {
+  }
+
+  @Override
+  public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+    Counter counter = dropped;
+    if (counter != null) {
+      counter.increment();
+    }
+  }
+
+}
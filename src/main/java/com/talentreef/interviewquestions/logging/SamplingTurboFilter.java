@@ -0,0 +1,125 @@
+package com.talentreef.interviewquestions.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import ch.qos.logback.core.util.Duration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate-limits repeated messages from hot loggers. Per message format, the first
+ * {@code burst} events in each {@code period} pass, after which only one in every
+ * {@code sampleRate} does. Suppressed events are denied before an event is built and
+ * are counted as {@code logging.events.suppressed}.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+  private String loggerPrefix = "";
+  private Level level = Level.WARN;
+  private int burst = 10;
+  private Duration period = Duration.buildBySeconds(1);
+  private int sampleRate = 100;
+  private int maxMessages = 1000;
+
+  private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+  private LongSupplier nanoClock = System::nanoTime;
+
+  private Counter suppressed;
+
+  @Override
+  public void start() {
+    if (burst < 0 || sampleRate < 1 || period.getMilliseconds() <= 0) {
+      addError("burst must not be negative, and sampleRate and period must be positive");
+      return;
+    }
+    suppressed = Counter.builder("logging.events.suppressed")
+            .description("Repeated log events suppressed by sampling")
+            .register(Metrics.globalRegistry);
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                            Object[] params, Throwable t) {
+    // A null format is an isEnabled() check rather than an actual event.
+    if (!isStarted() || format == null || !level.isGreaterOrEqual(this.level)
+            || !logger.getName().startsWith(loggerPrefix)) {
+      return FilterReply.NEUTRAL;
+    }
+
+    long now = nanoClock.getAsLong();
+    Window window = windows.get(format);
+    if (window == null) {
+      // Formats built by concatenation would otherwise grow the map without bound.
+      if (windows.size() >= maxMessages) {
+        return FilterReply.NEUTRAL;
+      }
+      window = windows.computeIfAbsent(format, key -> new Window(now));
+    }
+
+    if (window.admit(now, burst, period.getMilliseconds() * 1_000_000L, sampleRate)) {
+      return FilterReply.NEUTRAL;
+    }
+    suppressed.increment();
+    return FilterReply.DENY;
+  }
+
+  public void setLoggerPrefix(String loggerPrefix) {
+    this.loggerPrefix = loggerPrefix;
+  }
+
+  public void setLevel(Level level) {
+    this.level = level;
+  }
+
+  public void setBurst(int burst) {
+    this.burst = burst;
+  }
+
+  public void setPeriod(Duration period) {
+    this.period = period;
+  }
+
+  public void setSampleRate(int sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  public void setMaxMessages(int maxMessages) {
+    this.maxMessages = maxMessages;
+  }
+
+  void setNanoClock(LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+  }
+
+  // Lock-free so request threads logging the same message never queue on a monitor.
+  // A reset racing with increments may let a few extra events through; sampling does
+  // not need to be exact.
+  private static final class Window {
+
+    private final AtomicLong start;
+    private final AtomicLong count = new AtomicLong();
+
+    private Window(long now) {
+      this.start = new AtomicLong(now);
+    }
+
+    boolean admit(long now, int burst, long periodNanos, int sampleRate) {
+      long windowStart = start.get();
+      if (now - windowStart >= periodNanos && start.compareAndSet(windowStart, now)) {
+        count.set(0);
+      }
+      long seen = count.incrementAndGet();
+      return seen <= burst || (seen - burst) % sampleRate == 0;
+    }
+  }
+
+}
@@ -86,6 +86,9 @@ public class WidgetController {
       Optional<Widget> updatedWidget = widgetService.updateWidget(name, description, price);
       return updatedWidget.map(ResponseEntity::ok)
               .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    } catch (IllegalArgumentException e) {
+      log.warn("Invalid widget update: {}", e.getMessage());
+      return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
     } catch (Exception e) {
       log.error("Error updating widget: {}", e.getMessage());
       return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -1,11 +1,11 @@
 package com.talentreef.interviewquestions.takehome.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -15,27 +15,101 @@ import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.Digits;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
-@Data
+/**
+ * Widget with a compact internal layout: the name is held as UTF-8 bytes and the price as
+ * whole cents, while the getters and setters keep the original {@code name},
+ * {@code description} and {@code price} JSON shape.
+ */
 @Table
 @Entity
 @JsonIgnoreProperties(ignoreUnknown = true)
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
-@Builder(toBuilder=true)
 public class Widget {
 
+  private static final long NO_PRICE = Long.MIN_VALUE;
+
+  private byte[] encodedName;
+
+  private String description;
+
+  private long priceCents = NO_PRICE;
+
+  @Builder(toBuilder=true)
+  private Widget(@Builder.ObtainVia(method = "getName") String name,
+                 @Builder.ObtainVia(method = "getDescription") String description,
+                 @Builder.ObtainVia(method = "getPrice") Double price) {
+    setName(name);
+    setDescription(description);
+    setPrice(price);
+  }
+
+  public static byte[] encodeName(String name) {
+    return name == null ? null : name.getBytes(StandardCharsets.UTF_8);
+  }
+
   @Id
   @Size(min = 3, max = 100)
-  private String name;
+  @ToString.Include
+  public String getName() {
+    return encodedName == null ? null : new String(encodedName, StandardCharsets.UTF_8);
+  }
+
+  public void setName(String name) {
+    this.encodedName = encodeName(name);
+  }
+
+  /**
+   * The stored UTF-8 name, for lookups that compare bytes rather than decode a
+   * {@link String}. Callers must not modify the returned array.
+   */
+  public byte[] encodedName() {
+    return encodedName;
+  }
+
+  public boolean hasName(byte[] encodedName) {
+    return Arrays.equals(this.encodedName, encodedName);
+  }
 
   @NotEmpty
   @Size(min = 5, max = 1000)
-  private String description;
+  @ToString.Include
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
 
   @DecimalMin("1.00")
   @DecimalMax("20000.00")
   @Digits(integer = 5, fraction = 2)
-  private Double price;
+  @ToString.Include
+  public Double getPrice() {
+    return priceCents == NO_PRICE ? null : priceCents / 100.0;
+  }
+
+  public void setPrice(Double price) {
+    this.priceCents = price == null ? NO_PRICE : toCents(price);
+  }
+
+  @JsonIgnore
+  public void setPriceCents(long priceCents) {
+    this.priceCents = priceCents;
+  }
+
+  public static long toCents(double price) {
+    try {
+      return BigDecimal.valueOf(price).movePointRight(2).longValueExact();
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("price must be a whole number of cents: " + price, e);
+    }
+  }
 
 }
@@ -0,0 +1,52 @@
+package com.talentreef.interviewquestions.takehome.respositories;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reference-counted dictionary of widget descriptions, so widgets sharing boilerplate
+ * text hold one canonical {@link String}. Entries are dropped when their last widget
+ * releases them.
+ */
+class DescriptionDictionary {
+
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+  String acquire(String description) {
+    if (description == null) {
+      return null;
+    }
+    return entries.compute(description, (key, entry) -> {
+      Entry acquired = entry == null ? new Entry(key) : entry;
+      acquired.references++;
+      return acquired;
+    }).value;
+  }
+
+  void release(String description) {
+    if (description == null) {
+      return;
+    }
+    entries.computeIfPresent(description, (key, entry) -> --entry.references == 0 ? null : entry);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  int references(String description) {
+    Entry entry = entries.get(description);
+    return entry == null ? 0 : entry.references;
+  }
+
+  // Only mutated inside compute/computeIfPresent, which lock the entry's bin.
+  private static final class Entry {
+
+    private final String value;
+    private int references;
+
+    private Entry(String value) {
+      this.value = value;
+    }
+  }
+
+}
@@ -6,27 +6,50 @@ import org.springframework.stereotype.Repository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Repository
 public class WidgetRepository {
 
-  private List<Widget> table = new ArrayList<>();
+  private final DescriptionDictionary descriptions;
 
-  public List<Widget> deleteById(String name) {
-    this.table = table.stream()
-            .filter(widget -> !name.equals(widget.getName()))
-            .collect(Collectors.toList());
+  // Copy-on-write: mutators hold the repository lock so the table and the description
+  // counts change together, and publish a new list that readers can scan without locking.
+  private volatile List<Widget> table = new ArrayList<>();
+
+  public WidgetRepository() {
+    this(new DescriptionDictionary());
+  }
+
+  WidgetRepository(DescriptionDictionary descriptions) {
+    this.descriptions = descriptions;
+  }
+
+  public synchronized List<Widget> deleteById(String name) {
+    this.table = without(Widget.encodeName(name));
     return table;
   }
 
+  private List<Widget> without(byte[] encodedName) {
+    List<Widget> remaining = new ArrayList<>(table.size() + 1);
+    for (Widget widget : table) {
+      if (widget.hasName(encodedName)) {
+        descriptions.release(widget.getDescription());
+      } else {
+        remaining.add(widget);
+      }
+    }
+    return remaining;
+  }
+
   public List<Widget> findAll() {
     return table;
   }
 
-  public Widget save(Widget widget) {
-    deleteById(widget.getName());
-    table.add(widget);
+  public synchronized Widget save(Widget widget) {
+    List<Widget> updated = without(widget.encodedName());
+    widget.setDescription(descriptions.acquire(widget.getDescription()));
+    updated.add(widget);
+    this.table = updated;
     return widget;
   }
 
@@ -35,31 +58,33 @@ public class WidgetRepository {
   }
 
   public Optional<Widget> findById(String name) {
+    byte[] encodedName = Widget.encodeName(name);
     return table.stream()
-            .filter(widget -> name.equals(widget.getName()))
+            .filter(widget -> widget.hasName(encodedName))
             .findAny();
   }
 
-  public List<Widget> saveAll(List<Widget> widgetsList) {
-    widgetsList.forEach(widget -> {
-      deleteById(widget.getName());
-      table.add(widget);
-    });
+  public synchronized List<Widget> saveAll(List<Widget> widgetsList) {
+    widgetsList.forEach(this::save);
     return widgetsList;
   }
 
-  public Optional<Widget> update(String name, String description, Double price) {
+  public synchronized Optional<Widget> update(String name, String description, Double price) {
     Optional<Widget> widgetOpt = findById(name);
 
     if (widgetOpt.isPresent()) {
       Widget widget = widgetOpt.get();
+      // Convert the price before touching the description, so a bad price changes nothing.
+      Long priceCents = price != null && price > 0 ? Widget.toCents(price) : null;
 
       if (description != null && !description.isEmpty()) {
-        widget.setDescription(description);
+        String previous = widget.getDescription();
+        widget.setDescription(descriptions.acquire(description));
+        descriptions.release(previous);
       }
 
-      if (price != null && price > 0) {
-        widget.setPrice(price);
+      if (priceCents != null) {
+        widget.setPriceCents(priceCents);
       }
       return Optional.of(widget);
     }
@@ -0,0 +1,118 @@
+package com.talentreef.interviewquestions.takehome.startup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentreef.interviewquestions.takehome.models.Widget;
+import com.talentreef.interviewquestions.takehome.services.WidgetService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Optional startup phase that bulk-loads the widget catalog from a local snapshot and
+ * drives the widget endpoints until the JIT has seen them, before the app reports ready.
+ *
+ * <p>Runs as an {@link ApplicationRunner}, so readiness only flips to ACCEPTING_TRAFFIC
+ * once it returns. Settings are read from the {@link Environment} at run time rather than
+ * through conditional beans, because AOT processing freezes bean conditions at build time.
+ */
+@Slf4j
+@Component
+public class WidgetCatalogWarmup implements ApplicationRunner {
+
+  static final String ENABLED = "widgets.startup.enabled";
+  static final String SNAPSHOT = "widgets.startup.snapshot";
+  static final String WARMUP_ITERATIONS = "widgets.startup.warmup-iterations";
+  static final String EXIT_AFTER_WARMUP = "widgets.startup.exit-after-warmup";
+
+  private final WidgetService widgetService;
+  private final ObjectMapper objectMapper;
+  private final ConfigurableApplicationContext context;
+  private final Environment environment;
+
+  public WidgetCatalogWarmup(WidgetService widgetService, ObjectMapper objectMapper,
+                             ConfigurableApplicationContext context, Environment environment) {
+    Assert.notNull(widgetService, "widgetService must not be null");
+    Assert.notNull(objectMapper, "objectMapper must not be null");
+    Assert.notNull(context, "context must not be null");
+    Assert.notNull(environment, "environment must not be null");
+    this.widgetService = widgetService;
+    this.objectMapper = objectMapper;
+    this.context = context;
+    this.environment = environment;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException {
+    if (!environment.getProperty(ENABLED, Boolean.class, false)) {
+      return;
+    }
+
+    long start = System.nanoTime();
+    List<Widget> widgets = preload();
+    long preloaded = System.nanoTime();
+    int requests = warmup(widgets);
+    long warmed = System.nanoTime();
+
+    log.info("Startup phase preloaded {} widgets in {} ms and sent {} warm-up requests in {} ms",
+            widgets.size(), (preloaded - start) / 1_000_000, requests, (warmed - preloaded) / 1_000_000);
+
+    // Training run for the class-data-sharing archive: the JVM dumps the archive on exit.
+    if (environment.getProperty(EXIT_AFTER_WARMUP, Boolean.class, false)) {
+      System.exit(SpringApplication.exit(context));
+    }
+  }
+
+  List<Widget> preload() throws IOException {
+    String location = environment.getProperty(SNAPSHOT);
+    if (location == null || location.isBlank()) {
+      return List.of();
+    }
+
+    Resource snapshot = context.getResource(location);
+    if (!snapshot.exists()) {
+      log.warn("Widget catalog snapshot not found: {}", location);
+      return List.of();
+    }
+
+    try (InputStream in = snapshot.getInputStream()) {
+      List<Widget> widgets = objectMapper.readValue(in, new TypeReference<List<Widget>>(){});
+      return widgetService.createWidgets(widgets);
+    }
+  }
+
+  int warmup(List<Widget> widgets) {
+    Integer port = environment.getProperty("local.server.port", Integer.class);
+    int iterations = environment.getProperty(WARMUP_ITERATIONS, Integer.class, 0);
+    if (port == null || iterations <= 0) {
+      return 0;
+    }
+
+    // Go through the real server so Tomcat, the dispatcher and Jackson all get compiled.
+    RestTemplate restTemplate = new RestTemplate();
+    String baseUrl = "http://localhost:" + port + "/v1/widgets";
+    int requests = 0;
+    for (int i = 0; i < iterations; i++) {
+      restTemplate.getForEntity(baseUrl, String.class);
+      requests++;
+      if (!widgets.isEmpty()) {
+        Widget widget = widgets.get(i % widgets.size());
+        restTemplate.getForEntity(baseUrl + "/{name}", String.class, widget.getName());
+        requests++;
+      }
+    }
+    return requests;
+  }
+
+}
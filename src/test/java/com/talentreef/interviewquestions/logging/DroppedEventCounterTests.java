@@ -0,0 +1,61 @@
+package com.talentreef.interviewquestions.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DroppedEventCounterTests {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  private final DroppedEventCounter counter = new DroppedEventCounter();
+
+  @Before
+  public void init() {
+    Metrics.addRegistry(registry);
+    appender.setName("droppedEventCounterTestAppender");
+  }
+
+  @After
+  public void cleanup() {
+    Metrics.removeRegistry(registry);
+  }
+
+  @Test
+  public void when_eventAppendFailed_expect_droppedCounted() {
+    counter.appenderStarted(appender);
+
+    counter.eventAppendFailed(appender, null, new IllegalStateException("Ring buffer full"));
+    counter.eventAppendFailed(appender, null, new IllegalStateException("Ring buffer full"));
+
+    assertThat(registry.get("logging.events.dropped")
+            .tag("appender", "droppedEventCounterTestAppender")
+            .counter()
+            .count()).isEqualTo(2);
+  }
+
+  @Test
+  public void when_eventAppended_expect_nothingCounted() {
+    counter.appenderStarted(appender);
+
+    counter.eventAppended(appender, null, 1_000);
+
+    assertThat(registry.get("logging.events.dropped")
+            .tag("appender", "droppedEventCounterTestAppender")
+            .counter()
+            .count()).isZero();
+  }
+
+  @Test
+  public void when_eventAppendFailedBeforeStart_expect_noError() {
+    new DroppedEventCounter().eventAppendFailed(appender, null, new IllegalStateException("Ring buffer full"));
+  }
+}
@@ -0,0 +1,158 @@
+package com.talentreef.interviewquestions.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the same error burst through the synchronous and the asynchronous pipeline and
+ * writes the request-thread {@code logging.append.time} of each to
+ * {@code build/reports/logging/logging-pipeline.txt}.
+ */
+public class LoggingPipelineComparisonTests {
+
+  private static final String LOGGER = "com.talentreef.interviewquestions.takehome.controllers.WidgetController";
+  private static final int THREADS = 8;
+  private static final int EVENTS_PER_THREAD = 5_000;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private Path reportDir;
+
+  @Before
+  public void init() throws Exception {
+    registry.config().meterFilter(new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        return DistributionStatisticConfig.builder()
+                .percentiles(0.5, 0.99, 0.999)
+                .build()
+                .merge(config);
+      }
+    });
+    Metrics.addRegistry(registry);
+    reportDir = Path.of(System.getProperty("widgets.reportsDir", "build/reports"), "logging");
+    Files.createDirectories(reportDir);
+  }
+
+  @After
+  public void cleanup() {
+    Metrics.removeRegistry(registry);
+  }
+
+  @Test
+  public void when_errorBurst_expect_appendTimeRecordedForBothPipelines() throws Exception {
+    String sync = measure("sync-logging", false);
+    String async = measure("async-logging", true);
+
+    String report = String.format("Error burst: %d threads x %d events%n", THREADS, EVENTS_PER_THREAD)
+            + sync + async;
+    Files.writeString(reportDir.resolve("logging-pipeline.txt"), report);
+  }
+
+  private String measure(String pipeline, boolean async) throws Exception {
+    LoggerContext context = new LoggerContext();
+    context.start();
+    Logger logger = context.getLogger(LOGGER);
+    logger.setAdditive(false);
+    logger.addAppender(meteredAppender(context, pipeline, async));
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+          logger.error("Error fetching all widgets: {}", "Service Error");
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+    context.stop();
+
+    HistogramSnapshot appendTime = registry.get("logging.append.time")
+            .tag("appender", pipeline)
+            .timer()
+            .takeSnapshot();
+    assertThat(appendTime.count()).isEqualTo((long) THREADS * EVENTS_PER_THREAD);
+
+    StringBuilder line = new StringBuilder(String.format("%s: total %d ms, mean %.0f ns",
+            pipeline, (long) appendTime.total(TimeUnit.MILLISECONDS), appendTime.mean(TimeUnit.NANOSECONDS)));
+    for (ValueAtPercentile percentile : appendTime.percentileValues()) {
+      line.append(String.format(", p%s %.0f ns",
+              percentile.percentile() * 100, percentile.value(TimeUnit.NANOSECONDS)));
+    }
+    line.append(String.format(", max %.0f ns", appendTime.max(TimeUnit.NANOSECONDS)));
+    if (async) {
+      Counter dropped = registry.find("logging.events.dropped").tag("appender", pipeline + "-ring").counter();
+      line.append(String.format(", dropped %d", dropped == null ? 0 : (long) dropped.count()));
+    }
+    return line.append(System.lineSeparator()).toString();
+  }
+
+  private MeteredAppender meteredAppender(LoggerContext context, String pipeline, boolean async) {
+    LogstashEncoder encoder = new LogstashEncoder();
+    encoder.setContext(context);
+    encoder.start();
+
+    FileAppender<ILoggingEvent> file = new FileAppender<>();
+    file.setContext(context);
+    file.setName(pipeline + "-file");
+    file.setFile(reportDir.resolve(pipeline + ".log").toString());
+    file.setAppend(false);
+    file.setEncoder(encoder);
+    file.start();
+
+    Appender<ILoggingEvent> target = file;
+    if (async) {
+      LoggingEventAsyncDisruptorAppender ring = new LoggingEventAsyncDisruptorAppender();
+      ring.setContext(context);
+      ring.setName(pipeline + "-ring");
+      ring.setRingBufferSize(8192);
+      ring.addListener(new DroppedEventCounter());
+      ring.addAppender(file);
+      ring.start();
+      target = ring;
+    }
+
+    MeteredAppender metered = new MeteredAppender();
+    metered.setContext(context);
+    metered.setName(pipeline);
+    metered.addAppender(target);
+    metered.start();
+    return metered;
+  }
+}
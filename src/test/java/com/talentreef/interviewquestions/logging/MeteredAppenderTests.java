@@ -0,0 +1,66 @@
+package com.talentreef.interviewquestions.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MeteredAppenderTests {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final LoggerContext loggerContext = new LoggerContext();
+
+  private final ListAppender<ILoggingEvent> delegate = new ListAppender<>();
+
+  private final MeteredAppender appender = new MeteredAppender();
+
+  @Before
+  public void init() {
+    Metrics.addRegistry(registry);
+    delegate.setContext(loggerContext);
+    delegate.start();
+    appender.setContext(loggerContext);
+    appender.setName("meteredAppenderTestAppender");
+    appender.addAppender(delegate);
+    appender.start();
+  }
+
+  @After
+  public void cleanup() {
+    appender.stop();
+    Metrics.removeRegistry(registry);
+  }
+
+  @Test
+  public void when_append_expect_forwardedAndTimed() {
+    LoggingEvent event = new LoggingEvent(MeteredAppenderTests.class.getName(),
+            loggerContext.getLogger(MeteredAppenderTests.class), Level.ERROR, "Error fetching all widgets: {}",
+            null, new Object[] {"Service Error"});
+
+    appender.doAppend(event);
+
+    assertThat(delegate.list).containsExactly(event);
+    Timer appendTime = registry.get("logging.append.time")
+            .tag("appender", "meteredAppenderTestAppender")
+            .timer();
+    assertThat(appendTime.count()).isEqualTo(1);
+  }
+
+  @Test
+  public void when_stopped_expect_attachedAppendersStopped() {
+    appender.stop();
+
+    assertThat(delegate.isStarted()).isFalse();
+    assertThat(appender.isAttached(delegate)).isFalse();
+  }
+}
@@ -0,0 +1,113 @@
+package com.talentreef.interviewquestions.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import ch.qos.logback.core.util.Duration;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SamplingTurboFilterTests {
+
+  private static final String FORMAT = "Error fetching all widgets: {}";
+
+  private final LoggerContext loggerContext = new LoggerContext();
+  private final Logger controllerLogger = loggerContext.getLogger("com.talentreef.controllers.WidgetController");
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private SamplingTurboFilter filter;
+
+  @Before
+  public void init() {
+    filter = new SamplingTurboFilter();
+    filter.setContext(loggerContext);
+    filter.setLoggerPrefix("com.talentreef.controllers");
+    filter.setBurst(3);
+    filter.setSampleRate(5);
+    filter.setPeriod(Duration.buildByMinutes(1));
+    filter.setNanoClock(clock::get);
+    filter.start();
+  }
+
+  @Test
+  public void when_repeatedPastBurst_expect_sampled() {
+    int admitted = 0;
+    for (int i = 0; i < 23; i++) {
+      if (decide(controllerLogger, Level.ERROR, FORMAT) == FilterReply.NEUTRAL) {
+        admitted++;
+      }
+    }
+
+    // 3 in the burst, then every 5th of the remaining 20.
+    assertThat(admitted).isEqualTo(7);
+  }
+
+  @Test
+  public void when_periodElapsed_expect_burstAdmittedAgain() {
+    for (int i = 0; i < 4; i++) {
+      decide(controllerLogger, Level.ERROR, FORMAT);
+    }
+    assertThat(decide(controllerLogger, Level.ERROR, FORMAT)).isEqualTo(FilterReply.DENY);
+
+    clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(decide(controllerLogger, Level.ERROR, FORMAT)).isEqualTo(FilterReply.NEUTRAL);
+    }
+    assertThat(decide(controllerLogger, Level.ERROR, FORMAT)).isEqualTo(FilterReply.DENY);
+  }
+
+  @Test
+  public void when_periodNotElapsed_expect_stillSampled() {
+    for (int i = 0; i < 3; i++) {
+      decide(controllerLogger, Level.ERROR, FORMAT);
+    }
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(59));
+
+    assertThat(decide(controllerLogger, Level.ERROR, FORMAT)).isEqualTo(FilterReply.DENY);
+  }
+
+  @Test
+  public void when_belowLevel_expect_neutral() {
+    for (int i = 0; i < 10; i++) {
+      assertThat(decide(controllerLogger, Level.INFO, FORMAT)).isEqualTo(FilterReply.NEUTRAL);
+    }
+  }
+
+  @Test
+  public void when_otherLogger_expect_neutral() {
+    Logger otherLogger = loggerContext.getLogger("org.springframework.web");
+    for (int i = 0; i < 10; i++) {
+      assertThat(decide(otherLogger, Level.ERROR, FORMAT)).isEqualTo(FilterReply.NEUTRAL);
+    }
+  }
+
+  @Test
+  public void when_differentFormats_expect_separateBursts() {
+    for (int i = 0; i < 3; i++) {
+      decide(controllerLogger, Level.ERROR, FORMAT);
+    }
+
+    assertThat(decide(controllerLogger, Level.ERROR, FORMAT)).isEqualTo(FilterReply.DENY);
+    assertThat(decide(controllerLogger, Level.ERROR, "Error deleting widget: {}")).isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  @Test
+  public void when_enabledCheck_expect_neutral() {
+    for (int i = 0; i < 10; i++) {
+      assertThat(decide(controllerLogger, Level.ERROR, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+  }
+
+  private FilterReply decide(Logger logger, Level level, String format) {
+    return filter.decide(null, logger, level, format, null, null);
+  }
+}
@@ -197,6 +197,19 @@ public class WidgetControllerTests {
             .andDo(print());
   }
 
+  @Test
+  public void when_updateWidget_subCentPrice_expect_400() throws Exception {
+    String widgetName = "Widget1";
+    when(widgetService.updateWidget(any(String.class), any(String.class), any(Double.class)))
+            .thenThrow(new IllegalArgumentException("price must be a whole number of cents: 15.999"));
+
+    mockMvc.perform(put(BASE_URL + "/" + widgetName)
+                    .param("description", "Updated Description")
+                    .param("price", "15.999"))
+            .andExpect(status().isBadRequest())
+            .andDo(print());
+  }
+
   // 5. Test for `DELETE /v1/widgets/{name}`
   @Test
   public void when_deleteWidget_expect_204NoContent() throws Exception {
@@ -0,0 +1,144 @@
+package com.talentreef.interviewquestions.takehome.models;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentreef.interviewquestions.takehome.respositories.WidgetRepository;
+import org.junit.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class WidgetTests {
+
+  private static final int CATALOG_SIZE = 2_000;
+  private static final String[] BOILERPLATE = {
+          "Standard zinc-plated part for light duty assemblies. Ships in protective packaging.",
+          "Heavy duty part rated for continuous industrial service. Ships in protective packaging.",
+          "Replacement part compatible with all current models. Ships in protective packaging."
+  };
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  // Mirrors the previous Widget layout, for the footprint comparison.
+  private record LegacyWidget(String name, String description, Double price) {}
+
+  // 1. Price stored as cents
+  @Test
+  public void when_priceHasTwoFractionDigits_expect_exactRoundTrip() {
+    Widget widget = Widget.builder().name("Widget1").description("Description1").price(10.99).build();
+
+    assertThat(widget.getPrice()).isEqualTo(10.99);
+  }
+
+  @Test
+  public void when_priceIsNull_expect_null() {
+    Widget widget = Widget.builder().name("Widget1").build();
+
+    assertThat(widget.getPrice()).isNull();
+  }
+
+  @Test
+  public void when_priceHasSubCentFraction_expect_rejected() {
+    assertThatThrownBy(() -> Widget.builder().price(10.999).build())
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  // 2. Name stored as UTF-8
+  @Test
+  public void when_nameEncoded_expect_matchedByBytes() {
+    Widget widget = Widget.builder().name("Widget von Hämmersmark").build();
+
+    assertThat(widget.hasName(Widget.encodeName("Widget von Hämmersmark"))).isTrue();
+    assertThat(widget.hasName(widget.encodedName())).isTrue();
+    assertThat(widget.getName()).isEqualTo("Widget von Hämmersmark");
+  }
+
+  // 3. JSON shape
+  @Test
+  public void when_serialized_expect_unchangedJsonShape() throws Exception {
+    Widget widget = Widget.builder().name("Widget1").description("Description1").price(10.99).build();
+
+    Map<String, Object> json = objectMapper.readValue(objectMapper.writeValueAsString(widget),
+            new TypeReference<Map<String, Object>>(){});
+
+    assertThat(json).containsOnly(
+            Map.entry("name", "Widget1"),
+            Map.entry("description", "Description1"),
+            Map.entry("price", 10.99));
+  }
+
+  @Test
+  public void when_deserialized_expect_equalWidget() throws Exception {
+    Widget widget = objectMapper.readValue(
+            "{\"name\":\"Widget1\",\"description\":\"Description1\",\"price\":10.99}", Widget.class);
+
+    assertThat(widget).isEqualTo(Widget.builder().name("Widget1").description("Description1").price(10.99).build());
+  }
+
+  @Test
+  public void when_deserializedWithPriceCents_expect_ignored() throws Exception {
+    Widget widget = objectMapper.readValue("{\"name\":\"Widget1\",\"priceCents\":1099}", Widget.class);
+
+    assertThat(widget.getPrice()).isNull();
+  }
+
+  // 4. Memory footprint
+  @Test
+  public void when_catalogStored_expect_smallerFootprintThanLegacyLayout() throws IOException {
+    List<LegacyWidget> legacy = new ArrayList<>(CATALOG_SIZE);
+    List<Widget> compact = new ArrayList<>(CATALOG_SIZE);
+    List<String> copiedDescriptions = new ArrayList<>(CATALOG_SIZE);
+    List<Widget> stored = new ArrayList<>(CATALOG_SIZE);
+    for (int i = 0; i < CATALOG_SIZE; i++) {
+      String description = BOILERPLATE[i % BOILERPLATE.length];
+      double price = (1099 + i) / 100.0;
+      legacy.add(new LegacyWidget("Widget" + i, description, price));
+      compact.add(Widget.builder().name("Widget" + i).description(description).price(price).build());
+      // Each deserialized request body holds its own copy of the description.
+      copiedDescriptions.add(new String(description));
+      stored.add(Widget.builder().name("Widget" + i).description(new String(description)).price(price).build());
+    }
+    WidgetRepository repository = new WidgetRepository();
+    repository.saveAll(stored);
+
+    // Both catalogs share the same description instances, so only the layout differs.
+    long descriptionBytes = GraphLayout.parseInstance((Object[]) BOILERPLATE).totalSize();
+    long legacyWidgetBytes = perWidget(GraphLayout.parseInstance(legacy.toArray()).totalSize() - descriptionBytes);
+    long compactWidgetBytes = perWidget(GraphLayout.parseInstance(compact.toArray()).totalSize() - descriptionBytes);
+
+    long copiedDescriptionBytes = perWidget(GraphLayout.parseInstance(copiedDescriptions.toArray()).totalSize());
+    long dedupedDescriptionBytes = perWidget(GraphLayout.parseInstance(
+            repository.findAll().stream().map(Widget::getDescription).toArray()).totalSize());
+
+    String report = ClassLayout.parseClass(LegacyWidget.class).toPrintable()
+            + System.lineSeparator()
+            + ClassLayout.parseClass(Widget.class).toPrintable()
+            + System.lineSeparator()
+            + String.format("Widget instance: legacy %d bytes, compact %d bytes%n",
+                ClassLayout.parseClass(LegacyWidget.class).instanceSize(),
+                ClassLayout.parseClass(Widget.class).instanceSize())
+            + String.format("Per-widget name and price, descriptions excluded: legacy %d bytes, compact %d bytes%n",
+                legacyWidgetBytes, compactWidgetBytes)
+            + String.format("Per-widget description: copied %d bytes, deduplicated %d bytes%n",
+                copiedDescriptionBytes, dedupedDescriptionBytes);
+    Path reportDir = Path.of(System.getProperty("widgets.reportsDir", "build/reports"), "footprint");
+    Files.createDirectories(reportDir);
+    Files.writeString(reportDir.resolve("widget-footprint.txt"), report);
+
+    assertThat(compactWidgetBytes).isLessThan(legacyWidgetBytes);
+    assertThat(dedupedDescriptionBytes).isLessThan(copiedDescriptionBytes);
+  }
+
+  private static long perWidget(long bytes) {
+    return bytes / CATALOG_SIZE;
+  }
+}
@@ -0,0 +1,181 @@
+package com.talentreef.interviewquestions.takehome.respositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.talentreef.interviewquestions.takehome.models.Widget;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class WidgetRepositoryTests {
+
+  private static final String BOILERPLATE = "Standard zinc-plated part for light duty assemblies.";
+
+  private DescriptionDictionary descriptions;
+
+  private WidgetRepository widgetRepository;
+
+  @Before
+  public void init() {
+    descriptions = new DescriptionDictionary();
+    widgetRepository = new WidgetRepository(descriptions);
+  }
+
+  // 1. Test for `save()`
+  @Test
+  public void when_saveSharedDescription_expect_sameInstance() {
+    Widget widget1 = widgetRepository.save(widget("Widget1", new String(BOILERPLATE)));
+    Widget widget2 = widgetRepository.save(widget("Widget2", new String(BOILERPLATE)));
+
+    assertThat(widget1.getDescription()).isSameAs(widget2.getDescription());
+    assertThat(descriptions.size()).isEqualTo(1);
+    assertThat(descriptions.references(BOILERPLATE)).isEqualTo(2);
+  }
+
+  @Test
+  public void when_saveSameNameAgain_expect_countUnchanged() {
+    widgetRepository.save(widget("Widget1", new String(BOILERPLATE)));
+    widgetRepository.save(widget("Widget1", new String(BOILERPLATE)));
+
+    assertThat(widgetRepository.findAll()).hasSize(1);
+    assertThat(descriptions.references(BOILERPLATE)).isEqualTo(1);
+  }
+
+  @Test
+  public void when_saveAll_expect_sharedDescriptions() {
+    widgetRepository.saveAll(List.of(
+            widget("Widget1", new String(BOILERPLATE)),
+            widget("Widget2", new String(BOILERPLATE)),
+            widget("Widget3", "Heavy duty part rated for industrial service.")));
+
+    assertThat(descriptions.size()).isEqualTo(2);
+    assertThat(descriptions.references(BOILERPLATE)).isEqualTo(2);
+  }
+
+  // 2. Test for `deleteById()`
+  @Test
+  public void when_deleteById_expect_descriptionReleased() {
+    widgetRepository.save(widget("Widget1", BOILERPLATE));
+    widgetRepository.save(widget("Widget2", BOILERPLATE));
+
+    widgetRepository.deleteById("Widget1");
+
+    assertThat(descriptions.references(BOILERPLATE)).isEqualTo(1);
+  }
+
+  @Test
+  public void when_lastReferenceDeleted_expect_entryRemoved() {
+    widgetRepository.save(widget("Widget1", BOILERPLATE));
+
+    widgetRepository.deleteById("Widget1");
+
+    assertThat(descriptions.size()).isZero();
+    assertThat(descriptions.references(BOILERPLATE)).isZero();
+  }
+
+  @Test
+  public void when_deleteByIdNotFound_expect_countsUnchanged() {
+    widgetRepository.save(widget("Widget1", BOILERPLATE));
+
+    widgetRepository.deleteById("NonExistentWidget");
+
+    assertThat(descriptions.references(BOILERPLATE)).isEqualTo(1);
+  }
+
+  // 3. Test for `update()`
+  @Test
+  public void when_updateDescription_expect_oldReleasedAndNewShared() {
+    String updated = "Heavy duty part rated for industrial service.";
+    widgetRepository.save(widget("Widget1", BOILERPLATE));
+    Widget widget2 = widgetRepository.save(widget("Widget2", updated));
+
+    Widget widget1 = widgetRepository.update("Widget1", new String(updated), null).orElseThrow();
+
+    assertThat(widget1.getDescription()).isSameAs(widget2.getDescription());
+    assertThat(descriptions.references(updated)).isEqualTo(2);
+    assertThat(descriptions.references(BOILERPLATE)).isZero();
+    assertThat(descriptions.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void when_updateWithSameDescription_expect_countUnchanged() {
+    widgetRepository.save(widget("Widget1", BOILERPLATE));
+
+    widgetRepository.update("Widget1", new String(BOILERPLATE), null);
+
+    assertThat(descriptions.references(BOILERPLATE)).isEqualTo(1);
+  }
+
+  @Test
+  public void when_updatePrice_expect_storedInCents() {
+    widgetRepository.save(widget("Widget1", BOILERPLATE));
+
+    Widget widget = widgetRepository.update("Widget1", null, 15.99).orElseThrow();
+
+    assertThat(widget.getPrice()).isEqualTo(15.99);
+    assertThat(widget.getDescription()).isSameAs(BOILERPLATE);
+  }
+
+  @Test
+  public void when_updateWithSubCentPrice_expect_rejectedAndUnchanged() {
+    widgetRepository.save(Widget.builder().name("Widget1").description(BOILERPLATE).price(10.99).build());
+
+    assertThatThrownBy(() -> widgetRepository.update("Widget1", "Updated Description", 15.999))
+            .isInstanceOf(IllegalArgumentException.class);
+
+    Widget widget = widgetRepository.findById("Widget1").orElseThrow();
+    assertThat(widget.getDescription()).isEqualTo(BOILERPLATE);
+    assertThat(widget.getPrice()).isEqualTo(10.99);
+    assertThat(descriptions.references(BOILERPLATE)).isEqualTo(1);
+    assertThat(descriptions.references("Updated Description")).isZero();
+  }
+
+  // 4. Concurrent saves and deletes
+  @Test
+  public void when_concurrentSavesAndDeletes_expect_referencesMatchStoredWidgets() throws Exception {
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int thread = t;
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < 2_000; i++) {
+          String name = "Widget" + (i % 20);
+          if ((thread + i) % 3 == 0) {
+            widgetRepository.deleteById(name);
+          } else {
+            widgetRepository.save(widget(name, new String(BOILERPLATE)));
+          }
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    List<Widget> stored = widgetRepository.findAll();
+    assertThat(descriptions.references(BOILERPLATE)).isEqualTo(stored.size());
+    assertThat(stored).extracting(Widget::getName).doesNotHaveDuplicates();
+    if (!stored.isEmpty()) {
+      String shared = stored.get(0).getDescription();
+      assertThat(stored).allSatisfy(widget -> assertThat(widget.getDescription()).isSameAs(shared));
+    }
+  }
+
+  private static Widget widget(String name, String description) {
+    return Widget.builder().name(name).description(description).price(10.99).build();
+  }
+}
@@ -0,0 +1,85 @@
+package com.talentreef.interviewquestions.takehome.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentreef.interviewquestions.takehome.models.Widget;
+import com.talentreef.interviewquestions.takehome.services.WidgetService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WidgetCatalogWarmupTests {
+
+  private static final String SNAPSHOT = "classpath:startup/widget-catalog.json";
+
+  @Mock
+  private WidgetService widgetService;
+
+  @Mock
+  private ConfigurableApplicationContext context;
+
+  private MockEnvironment environment;
+
+  private WidgetCatalogWarmup warmup;
+
+  @Before
+  public void init() {
+    environment = new MockEnvironment();
+    warmup = new WidgetCatalogWarmup(widgetService, new ObjectMapper(), context, environment);
+  }
+
+  @Test
+  public void when_disabled_expect_noPreload() throws Exception {
+    environment.setProperty(WidgetCatalogWarmup.SNAPSHOT, SNAPSHOT);
+
+    warmup.run(new DefaultApplicationArguments());
+
+    verifyNoInteractions(widgetService, context);
+  }
+
+  @Test
+  public void when_enabled_expect_snapshotLoaded() throws Exception {
+    environment.setProperty(WidgetCatalogWarmup.ENABLED, "true");
+    environment.setProperty(WidgetCatalogWarmup.SNAPSHOT, SNAPSHOT);
+    when(context.getResource(SNAPSHOT)).thenReturn(new ClassPathResource("startup/widget-catalog.json"));
+    when(widgetService.createWidgets(any(List.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    warmup.run(new DefaultApplicationArguments());
+
+    verify(widgetService, times(1)).createWidgets(argThat((List<Widget> widgets) ->
+            !widgets.isEmpty() && widgets.stream().allMatch(widget -> widget.getPrice() != null)));
+  }
+
+  @Test
+  public void when_snapshotMissing_expect_emptyCatalog() throws Exception {
+    environment.setProperty(WidgetCatalogWarmup.SNAPSHOT, "file:/nonexistent/widgets.json");
+    when(context.getResource(any(String.class))).thenReturn(new FileSystemResource("/nonexistent/widgets.json"));
+
+    List<Widget> result = warmup.preload();
+
+    assertThat(result).isEmpty();
+    verifyNoInteractions(widgetService);
+  }
+
+  @Test
+  public void when_noServerPort_expect_noWarmupRequests() {
+    environment.setProperty(WidgetCatalogWarmup.WARMUP_ITERATIONS, "100");
+
+    int requests = warmup.warmup(List.of(Widget.builder().name("Widget1").build()));
+
+    assertThat(requests).isZero();
+  }
+}